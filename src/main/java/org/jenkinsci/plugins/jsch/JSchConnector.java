@@ -3,33 +3,64 @@ package org.jenkinsci.plugins.jsch;
 import com.cloudbees.jenkins.plugins.sshcredentials.SSHAuthenticatorException;import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
+import jenkins.util.SystemProperties;
 
 /**
  * @author stephenc
  * @since 0.1.54.0
  */
 public class JSchConnector {
+    /**
+     * The number of JSch log events retained for the current session, {@code 0} disables the trace.
+     */
+    private static final int TRACE_SIZE = SystemProperties.getInteger(JSchConnector.class.getName() + ".traceSize",
+            256);
+
+    /**
+     * The trace reported before the first session is created.
+     */
+    private static final JSchTraceBuffer NO_TRACE = new JSchTraceBuffer(0);
+
     private final JSch jsch;
     private final String host;
     private final int port;
     private Session session = null;
     private final String username;
+    private final int traceSize;
+    private JSchTraceBuffer trace = NO_TRACE;
 
     public JSchConnector(String username, String host, int port) {
         this(new JSch(), username, host, port);
     }
 
     public JSchConnector(JSch jsch, String username, String host, int port) {
+        this(jsch, username, host, port, TRACE_SIZE);
+    }
+
+    JSchConnector(JSch jsch, String username, String host, int port, int traceSize) {
         this.host = host;
         this.jsch = jsch;
         this.port = port;
         this.username = username;
+        this.traceSize = Math.max(traceSize, 0);
     }
 
     public JSch getJSch() {
         return jsch;
     }
 
+    /**
+     * Returns the most recent JSch log events of the last session created by {@link #getSession()}, for example to
+     * report alongside a failed connection attempt. Every session records into its own trace, so events of an
+     * earlier session never show up here once a new session has been created. The trace stays available after
+     * {@link #close()}.
+     *
+     * @return the trace of the last session created.
+     */
+    public synchronized JSchTraceBuffer getTrace() {
+        return trace;
+    }
+
     public synchronized boolean hasSession() {
         return session != null;
     }
@@ -38,6 +69,9 @@ public class JSchConnector {
         if (!hasSession()) {
             try {
                 session = jsch.getSession(username, host, port);
+                trace = new JSchTraceBuffer(traceSize);
+                // until a session logger is set this is the JSch instance or global logger, keep feeding it
+                session.setLogger(new JSchLogger(trace, session.getLogger(), username + "@" + host + ":" + port));
             } catch (JSchException e) {
                 throw new SSHAuthenticatorException(e);
             }
@@ -0,0 +1,99 @@
+package org.jenkinsci.plugins.jsch;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import jenkins.util.SystemProperties;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bridges JSch's {@link com.jcraft.jsch.Logger} to {@code java.util.logging} for a single session, additionally
+ * recording events into the session's {@link JSchTraceBuffer}. Events are also passed on to the JSch logger that
+ * was in effect for the session before this one was installed, so instance or global loggers configured by the
+ * caller keep working.
+ * <p>
+ * JSch only builds its log messages after {@link #isEnabled(int)} returns {@code true}, so the check is kept to a
+ * couple of integer comparisons plus the delegate's own check. Note that with the trace enabled at the default
+ * {@link #INFO} trace level JSch will build every handshake message, even if the trace is never dumped. Set the
+ * {@code org.jenkinsci.plugins.jsch.JSchLogger.traceLevel} system property to {@link #WARN} (or the
+ * {@code org.jenkinsci.plugins.jsch.JSchConnector.traceSize} system property to {@code 0}) to avoid that cost.
+ */
+public class JSchLogger implements com.jcraft.jsch.Logger {
+
+    /**
+     * The logger that JSch events are forwarded to.
+     */
+    private static final Logger LOGGER = Logger.getLogger("com.jcraft.jsch");
+
+    /**
+     * The lowest JSch level recorded into the trace.
+     */
+    private static final int TRACE_LEVEL = SystemProperties.getInteger(JSchLogger.class.getName() + ".traceLevel",
+            INFO);
+
+    @CheckForNull
+    private final JSchTraceBuffer trace;
+    @CheckForNull
+    private final com.jcraft.jsch.Logger delegate;
+    private final String id;
+
+    /**
+     * Constructor.
+     *
+     * @param trace    the trace to record events into or {@code null} to not record events.
+     * @param delegate the logger that was in effect before this one or {@code null} if there was none.
+     * @param id       identifies the session in forwarded log messages.
+     */
+    public JSchLogger(@CheckForNull JSchTraceBuffer trace, @CheckForNull com.jcraft.jsch.Logger delegate,
+                      String id) {
+        this.trace = trace != null && trace.isEnabled() ? trace : null;
+        this.delegate = delegate;
+        this.id = id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(int level) {
+        return (trace != null && level >= TRACE_LEVEL)
+                || LOGGER.isLoggable(toLevel(level))
+                || (delegate != null && delegate.isEnabled(level));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void log(int level, String message) {
+        if (trace != null && level >= TRACE_LEVEL) {
+            trace.record(level, message);
+        }
+        Level julLevel = toLevel(level);
+        if (LOGGER.isLoggable(julLevel)) {
+            LOGGER.log(julLevel, "[{0}] {1}", new Object[]{id, message});
+        }
+        if (delegate != null && delegate.isEnabled(level)) {
+            delegate.log(level, message);
+        }
+    }
+
+    /**
+     * Maps a JSch level to a {@code java.util.logging} level. JSch reports every step of the handshake at
+     * {@link #INFO} so that is treated as fine-grained detail rather than something for the Jenkins log.
+     */
+    private static Level toLevel(int level) {
+        switch (level) {
+            case DEBUG:
+                return Level.FINEST;
+            case INFO:
+                return Level.FINE;
+            case WARN:
+                return Level.INFO;
+            case ERROR:
+                return Level.WARNING;
+            default:
+                return Level.SEVERE;
+        }
+    }
+}
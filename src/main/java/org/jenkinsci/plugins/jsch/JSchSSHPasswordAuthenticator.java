@@ -4,6 +4,7 @@ import com.cloudbees.jenkins.plugins.sshcredentials.SSHAuthenticator;
 import com.cloudbees.jenkins.plugins.sshcredentials.SSHAuthenticatorFactory;
 import com.cloudbees.plugins.credentials.common.StandardUsernameCredentials;
 import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredentials;
+import com.jcraft.jsch.Logger;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.UIKeyboardInteractive;
 import com.jcraft.jsch.UserInfo;
@@ -12,19 +13,12 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import hudson.Extension;
 
-import java.util.logging.Logger;
-
 /**
  * @author stephenc
  * @since 0.1.54.0
  */
 public class JSchSSHPasswordAuthenticator extends SSHAuthenticator<JSchConnector, StandardUsernamePasswordCredentials> {
 
-    /**
-     * Our logger.
-     */
-    private static final Logger LOGGER = Logger.getLogger(JSchSSHPasswordAuthenticator.class.getName());
-
     protected JSchSSHPasswordAuthenticator(@NonNull JSchConnector connection,
                                            @NonNull StandardUsernamePasswordCredentials user) {
         this(connection, user, null);
@@ -51,7 +45,7 @@ public class JSchSSHPasswordAuthenticator extends SSHAuthenticator<JSchConnector
     @Override
     protected boolean doAuthenticate() {
         final Session session = getConnection().getSession();
-        session.setUserInfo(new JSchUserInfo());
+        session.setUserInfo(new JSchUserInfo(session));
         session.setPassword(getUser().getPassword().getPlainText());
         return true;
     }
@@ -104,6 +98,15 @@ public class JSchSSHPasswordAuthenticator extends SSHAuthenticator<JSchConnector
 
     private class JSchUserInfo implements UserInfo, UIKeyboardInteractive {
 
+        /**
+         * The session this is the user info of, never looked up through the connector as that could create a new one.
+         */
+        private final Session session;
+
+        JSchUserInfo(Session session) {
+            this.session = session;
+        }
+
         public String getPassphrase() {
             return "";
         }
@@ -113,22 +116,22 @@ public class JSchSSHPasswordAuthenticator extends SSHAuthenticator<JSchConnector
         }
 
         public boolean promptPassword(String message) {
-            LOGGER.info(message);
+            trace(message);
             return true;
         }
 
         public boolean promptPassphrase(String message) {
-            LOGGER.info(message);
+            trace(message);
             return false;
         }
 
         public boolean promptYesNo(String message) {
-            LOGGER.info(message);
+            trace(message);
             return false;
         }
 
         public void showMessage(String message) {
-            LOGGER.info(message);
+            trace(message);
         }
 
         public String[] promptKeyboardInteractive(String destination, String name, String instruction, String[] prompt,
@@ -139,5 +142,13 @@ public class JSchSSHPasswordAuthenticator extends SSHAuthenticator<JSchConnector
                     ? new String[]{getUser().getPassword().getPlainText()}
                     : new String[0];
         }
+
+        private void trace(String message) {
+            // goes through the session's JSchLogger so prompts are filtered and formatted like JSch's own events
+            final Logger logger = session.getLogger();
+            if (logger.isEnabled(Logger.INFO)) {
+                logger.log(Logger.INFO, message);
+            }
+        }
     }
 }
@@ -0,0 +1,146 @@
+package org.jenkinsci.plugins.jsch;
+
+import com.jcraft.jsch.Logger;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * A fixed-size ring buffer of the most recent JSch log events for a single {@link com.jcraft.jsch.Session}.
+ * Events are only recorded by the session's {@link JSchLogger}, callers can just read or dump them.
+ * <p>
+ * The storage is allocated once up front and events are kept in parallel arrays, so recording an event does not
+ * allocate. Formatting only happens when the trace is dumped, typically after a connection has failed.
+ */
+public class JSchTraceBuffer {
+
+    private final long[] timestamps;
+    private final int[] levels;
+    private final String[] messages;
+    /**
+     * The index the next event will be written to.
+     */
+    private int next;
+    /**
+     * The number of events currently held, never more than the capacity.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of events to retain, {@code 0} disables recording.
+     */
+    public JSchTraceBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.levels = new int[capacity];
+        this.messages = new String[capacity];
+    }
+
+    /**
+     * Returns the maximum number of events this buffer retains.
+     *
+     * @return the maximum number of events this buffer retains.
+     */
+    public int getCapacity() {
+        return messages.length;
+    }
+
+    /**
+     * Returns {@code true} if this buffer records anything at all.
+     *
+     * @return {@code true} if this buffer records anything at all.
+     */
+    public boolean isEnabled() {
+        return messages.length > 0;
+    }
+
+    /**
+     * Returns the number of events currently held.
+     *
+     * @return the number of events currently held.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Records an event, overwriting the oldest one when the buffer is full.
+     *
+     * @param level   the JSch level, one of the {@link Logger} constants.
+     * @param message the message.
+     */
+    synchronized void record(int level, String message) {
+        if (messages.length == 0) {
+            return;
+        }
+        timestamps[next] = System.currentTimeMillis();
+        levels[next] = level;
+        messages[next] = message;
+        next = (next + 1) % messages.length;
+        if (size < messages.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Discards all recorded events.
+     */
+    synchronized void clear() {
+        Arrays.fill(messages, null);
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * Appends the recorded events, oldest first, one per line.
+     *
+     * @param out the buffer to append to.
+     * @return the supplied buffer.
+     */
+    @NonNull
+    public synchronized StringBuilder dump(@NonNull StringBuilder out) {
+        int start = (next - size + messages.length) % Math.max(messages.length, 1);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % messages.length;
+            out.append(Instant.ofEpochMilli(timestamps[index]))
+                    .append(' ')
+                    .append(levelName(levels[index]))
+                    .append(' ')
+                    .append(messages[index])
+                    .append(System.lineSeparator());
+        }
+        return out;
+    }
+
+    /**
+     * Returns the recorded events, oldest first, one per line.
+     *
+     * @return the recorded events.
+     */
+    @Override
+    public String toString() {
+        return dump(new StringBuilder()).toString();
+    }
+
+    private static String levelName(int level) {
+        switch (level) {
+            case Logger.DEBUG:
+                return "DEBUG";
+            case Logger.INFO:
+                return "INFO";
+            case Logger.WARN:
+                return "WARN";
+            case Logger.ERROR:
+                return "ERROR";
+            case Logger.FATAL:
+                return "FATAL";
+            default:
+                return Integer.toString(level);
+        }
+    }
+}
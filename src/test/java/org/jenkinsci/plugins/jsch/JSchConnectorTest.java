@@ -0,0 +1,67 @@
+package org.jenkinsci.plugins.jsch;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Logger;
+import com.jcraft.jsch.Session;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class JSchConnectorTest {
+
+    private JSchConnector connector;
+
+    @After
+    public void tearDown() {
+        if (connector != null) {
+            connector.close();
+            connector = null;
+        }
+    }
+
+    @Test
+    public void testTraceIsScopedToOneSession() {
+        connector = new JSchConnector(new JSch(), "foobar", "localhost", 22, 8);
+        Logger first = connector.getSession().getLogger();
+        first.log(Logger.INFO, "first session event");
+        JSchTraceBuffer firstTrace = connector.getTrace();
+        assertThat(firstTrace.toString(), containsString("INFO first session event"));
+
+        connector.close();
+        // the trace of a closed session stays available for reporting
+        assertThat(connector.getTrace(), sameInstance(firstTrace));
+
+        Session second = connector.getSession();
+        // the old session's background thread may still log after it has been replaced
+        first.log(Logger.INFO, "late first session event");
+        second.getLogger().log(Logger.INFO, "second session event");
+
+        String trace = connector.getTrace().toString();
+        assertThat(trace, containsString("INFO second session event"));
+        assertThat(trace, not(containsString("first session event")));
+        assertThat(connector.getTrace().size(), is(1));
+    }
+
+    @Test
+    public void testTraceDisabled() {
+        java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger("com.jcraft.jsch");
+        java.util.logging.Level originalLevel = julLogger.getLevel();
+        julLogger.setLevel(java.util.logging.Level.INFO);
+        try {
+            connector = new JSchConnector(new JSch(), "foobar", "localhost", 22, 0);
+            Logger logger = connector.getSession().getLogger();
+            // nothing wants JSch's handshake messages so JSch should not build them
+            assertThat(logger.isEnabled(Logger.INFO), is(false));
+            logger.log(Logger.INFO, "ignored event");
+            assertThat(connector.getTrace().isEnabled(), is(false));
+            assertThat(connector.getTrace().size(), is(0));
+        } finally {
+            julLogger.setLevel(originalLevel);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.jenkinsci.plugins.jsch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class JSchLoggerTest {
+
+    private final Logger julLogger = Logger.getLogger("com.jcraft.jsch");
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private Level originalLevel;
+
+    @Before
+    public void setUp() {
+        originalLevel = julLogger.getLevel();
+        julLogger.addHandler(handler);
+    }
+
+    @After
+    public void tearDown() {
+        julLogger.removeHandler(handler);
+        julLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    public void testDisabledWhenNothingWantsTheEvent() {
+        julLogger.setLevel(Level.OFF);
+        JSchLogger logger = new JSchLogger(new JSchTraceBuffer(0), null, "foobar@localhost:22");
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.DEBUG), is(false));
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.INFO), is(false));
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.FATAL), is(false));
+    }
+
+    @Test
+    public void testTraceLevelFiltering() {
+        julLogger.setLevel(Level.OFF);
+        JSchTraceBuffer trace = new JSchTraceBuffer(8);
+        JSchLogger logger = new JSchLogger(trace, null, "foobar@localhost:22");
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.DEBUG), is(false));
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.WARN), is(true));
+        logger.log(com.jcraft.jsch.Logger.DEBUG, "debug event");
+        logger.log(com.jcraft.jsch.Logger.WARN, "warn event");
+        logger.log(com.jcraft.jsch.Logger.ERROR, "error event");
+        String dump = trace.toString();
+        assertThat(dump, not(containsString("debug event")));
+        assertThat(dump, containsString("WARN warn event"));
+        assertThat(dump, containsString("ERROR error event"));
+        assertThat(trace.size(), is(2));
+    }
+
+    @Test
+    public void testForwardsToJulAtMappedLevels() {
+        julLogger.setLevel(Level.ALL);
+        JSchLogger logger = new JSchLogger(null, null, "foobar@localhost:22");
+        logger.log(com.jcraft.jsch.Logger.DEBUG, "debug event");
+        logger.log(com.jcraft.jsch.Logger.INFO, "info event");
+        logger.log(com.jcraft.jsch.Logger.WARN, "warn event");
+        logger.log(com.jcraft.jsch.Logger.ERROR, "error event");
+        logger.log(com.jcraft.jsch.Logger.FATAL, "fatal event");
+        assertThat(records.size(), is(5));
+        assertThat(records.get(0).getLevel(), is(Level.FINEST));
+        assertThat(records.get(1).getLevel(), is(Level.FINE));
+        assertThat(records.get(2).getLevel(), is(Level.INFO));
+        assertThat(records.get(3).getLevel(), is(Level.WARNING));
+        assertThat(records.get(4).getLevel(), is(Level.SEVERE));
+        assertThat(records.get(1).getParameters()[0], is("foobar@localhost:22"));
+        assertThat(records.get(1).getParameters()[1], is("info event"));
+    }
+
+    @Test
+    public void testForwardsToPreviousLogger() {
+        julLogger.setLevel(Level.OFF);
+        final List<String> forwarded = new ArrayList<>();
+        com.jcraft.jsch.Logger previous = new com.jcraft.jsch.Logger() {
+            @Override
+            public boolean isEnabled(int level) {
+                return level >= WARN;
+            }
+
+            @Override
+            public void log(int level, String message) {
+                forwarded.add(message);
+            }
+        };
+        JSchLogger logger = new JSchLogger(new JSchTraceBuffer(0), previous, "foobar@localhost:22");
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.INFO), is(false));
+        assertThat(logger.isEnabled(com.jcraft.jsch.Logger.WARN), is(true));
+        logger.log(com.jcraft.jsch.Logger.INFO, "info event");
+        logger.log(com.jcraft.jsch.Logger.WARN, "warn event");
+        assertThat(forwarded.size(), is(1));
+        assertThat(forwarded.get(0), is("warn event"));
+    }
+}
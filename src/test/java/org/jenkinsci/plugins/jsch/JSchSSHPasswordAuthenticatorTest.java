@@ -46,7 +46,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertThat;
 
 public class JSchSSHPasswordAuthenticatorTest {
@@ -110,6 +112,13 @@ public class JSchSSHPasswordAuthenticatorTest {
             connector.getSession().setConfig("StrictHostKeyChecking", "no");
             connector.getSession().connect((int) TimeUnit.SECONDS.toMillis(30));
             assertThat(connector.getSession().isConnected(), is(true));
+            assertThat(connector.getTrace().size(), greaterThan(0));
+            String trace = connector.getTrace().toString();
+            assertThat(trace, containsString("INFO Connecting to localhost port " + sshd.getPort()));
+            assertThat(trace, containsString("INFO Authentication succeeded"));
+            // JSch does not prompt when the password is already set, so drive the prompt directly
+            connector.getSession().getUserInfo().promptPassword("Password for foobar@localhost");
+            assertThat(connector.getTrace().toString(), containsString("INFO Password for foobar@localhost"));
         } finally {
             try {
                 sshd.stop(true);
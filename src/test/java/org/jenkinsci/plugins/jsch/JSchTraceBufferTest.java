@@ -0,0 +1,59 @@
+package org.jenkinsci.plugins.jsch;
+
+import com.jcraft.jsch.Logger;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class JSchTraceBufferTest {
+
+    @Test
+    public void testRecordsInOrder() {
+        JSchTraceBuffer trace = new JSchTraceBuffer(4);
+        trace.record(Logger.INFO, "one");
+        trace.record(Logger.WARN, "two");
+        assertThat(trace.size(), is(2));
+        String[] lines = trace.toString().split(System.lineSeparator());
+        assertThat(lines.length, is(2));
+        assertThat(lines[0], endsWith(" INFO one"));
+        assertThat(lines[1], endsWith(" WARN two"));
+    }
+
+    @Test
+    public void testOverwritesOldest() {
+        JSchTraceBuffer trace = new JSchTraceBuffer(3);
+        for (int i = 0; i < 5; i++) {
+            trace.record(Logger.INFO, "event-" + i);
+        }
+        assertThat(trace.size(), is(3));
+        String[] lines = trace.toString().split(System.lineSeparator());
+        assertThat(lines.length, is(3));
+        assertThat(lines[0], endsWith(" INFO event-2"));
+        assertThat(lines[1], endsWith(" INFO event-3"));
+        assertThat(lines[2], endsWith(" INFO event-4"));
+    }
+
+    @Test
+    public void testDisabled() {
+        JSchTraceBuffer trace = new JSchTraceBuffer(0);
+        trace.record(Logger.ERROR, "ignored");
+        assertThat(trace.isEnabled(), is(false));
+        assertThat(trace.size(), is(0));
+        assertThat(trace.toString(), is(""));
+    }
+
+    @Test
+    public void testClear() {
+        JSchTraceBuffer trace = new JSchTraceBuffer(2);
+        trace.record(Logger.INFO, "one");
+        trace.clear();
+        assertThat(trace.size(), is(0));
+        trace.record(Logger.INFO, "two");
+        assertThat(trace.toString(), not(containsString("one")));
+        assertThat(trace.toString(), containsString("two"));
+    }
+}